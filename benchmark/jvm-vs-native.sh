@@ -0,0 +1,149 @@
+#!/usr/bin/env bash
+#
+# Compares the JVM and native builds of the coffee service: time until the
+# readiness probe reports UP, resident memory once ready, and steady-state
+# throughput of GET /coffees over a fixed set of seeded coffees.
+#
+# Both builds run the same way, as containers on the host network, and startup
+# is timed from `docker start` of an already created container.
+#
+# Prerequisites: a running PostgreSQL reachable through SPRING_DATASOURCE_URL,
+# JWT_KEYS_K1 set to a signing secret, docker, curl and wrk. Build both images first:
+#
+#   ./gradlew bootBuildImage            # JVM build    -> coffee-jvm:0.0.1-SNAPSHOT
+#   ./gradlew -Pnative bootBuildImage   # native build -> coffee-native:0.0.1-SNAPSHOT
+#
+# Usage: benchmark/jvm-vs-native.sh [duration] [connections]
+#
+# COFFEES (default 100) sets how many coffees are seeded before the JVM run.
+
+set -euo pipefail
+
+DURATION=${1:-60s}
+CONNECTIONS=${2:-32}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+VERSION=${VERSION:-0.0.1-SNAPSHOT}
+STARTUP_TIMEOUT_MS=${STARTUP_TIMEOUT_MS:-120000}
+BENCH_USER=${BENCH_USER:-bench}
+BENCH_PASSWORD=${BENCH_PASSWORD:-bench}
+COFFEES=${COFFEES:-100}
+: "${SPRING_DATASOURCE_URL:?SPRING_DATASOURCE_URL must point at the benchmark database}"
+: "${JWT_KEYS_K1:?JWT_KEYS_K1 must hold the JWT signing secret}"
+
+container=""
+
+cleanup() {
+    if [ -n "${container}" ]; then
+        docker rm -f "${container}" > /dev/null 2>&1 || true
+    fi
+}
+trap cleanup EXIT
+
+fail() {
+    echo "error: $*" >&2
+    exit 1
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+wait_until_ready() {
+    local deadline=$(( $(now_ms) + STARTUP_TIMEOUT_MS ))
+    until curl -fs "${BASE_URL}/actuator/health/readiness" > /dev/null; do
+        if [ "$(now_ms)" -ge "${deadline}" ]; then
+            docker logs "${container}" >&2 || true
+            fail "service not ready after ${STARTUP_TIMEOUT_MS} ms"
+        fi
+        sleep 0.05
+    done
+}
+
+rss_kb() {
+    ps -o rss= -p "$1" | tr -d ' '
+}
+
+login() {
+    curl -s -D - -o /dev/null -X POST "${BASE_URL}/login" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"${BENCH_USER}\",\"password\":\"${BENCH_PASSWORD}\"}" \
+        | grep -i '^authorization:' | cut -d' ' -f2- | tr -d '\r' || true
+}
+
+# Signs the benchmark user up only when it cannot log in yet, so reruns against the
+# same database do not create duplicate users.
+token() {
+    local token=$(login)
+    if [ -z "${token}" ]; then
+        curl -fs -X POST "${BASE_URL}/signup" -H 'Content-Type: application/json' \
+            -d "{\"username\":\"${BENCH_USER}\",\"password\":\"${BENCH_PASSWORD}\"}" > /dev/null \
+            || fail "could not sign up ${BENCH_USER}"
+        token=$(login)
+    fi
+    [ -n "${token}" ] || fail "could not log in as ${BENCH_USER}"
+    echo "${token}"
+}
+
+# Creates COFFEES coffees before the first measurement. Reruns hit the existing names,
+# which the service rejects with 400, so the data set stays the same size.
+seed() {
+    local token=$1 i status
+    for i in $(seq 1 "${COFFEES}"); do
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "${BASE_URL}/coffees" \
+            -H "Authorization: ${token}" -H 'Content-Type: application/json' \
+            -d "{\"name\":\"bench-coffee-${i}\",\"price\":${i}.5}")
+        case "${status}" in
+            201|400) ;;
+            *) fail "could not seed bench-coffee-${i} (HTTP ${status})" ;;
+        esac
+    done
+}
+
+# Fails unless GET /coffees returns at least the seeded coffees, so an empty list is never measured.
+check_seeded() {
+    local token=$1 count
+    count=$(curl -fs -H "Authorization: ${token}" "${BASE_URL}/coffees" | grep -o '"name"' | wc -l)
+    [ "${count}" -ge "${COFFEES}" ] || fail "GET /coffees returned ${count} coffees, expected at least ${COFFEES}"
+}
+
+# Runs wrk and fails if any response was not 2xx/3xx, so errors are never measured as throughput.
+load() {
+    local duration=$1 token=$2 output
+    output=$(wrk -t4 -c"${CONNECTIONS}" -d"${duration}" -H "Authorization: ${token}" "${BASE_URL}/coffees")
+    if grep -q 'Non-2xx or 3xx responses' <<< "${output}"; then
+        echo "${output}" >&2
+        fail "GET /coffees returned non-2xx responses"
+    fi
+    awk '/Requests\/sec/ { print $2 }' <<< "${output}"
+}
+
+run() {
+    local name=$1 image=$2
+
+    container=$(docker create --network host -e SERVER_PORT="${PORT}" \
+        -e SPRING_DATASOURCE_URL="${SPRING_DATASOURCE_URL}" -e JWT_KEYS_K1="${JWT_KEYS_K1}" "${image}")
+
+    local start=$(now_ms)
+    docker start "${container}" > /dev/null
+    wait_until_ready
+    local ready=$(now_ms)
+    local pid=$(docker inspect -f '{{.State.Pid}}' "${container}")
+    local rss_ready=$(rss_kb "${pid}")
+
+    local token throughput
+    token=$(token)
+    seed "${token}"
+    check_seeded "${token}"
+    load 30s "${token}" > /dev/null
+    throughput=$(load "${DURATION}" "${token}")
+    local rss_loaded=$(rss_kb "${pid}")
+
+    printf '%-8s startup=%6d ms  rss_ready=%7d KB  rss_loaded=%7d KB  throughput=%10s req/s\n' \
+        "${name}" "$((ready - start))" "${rss_ready}" "${rss_loaded}" "${throughput}"
+
+    docker rm -f "${container}" > /dev/null
+    container=""
+}
+
+run jvm "coffee-jvm:${VERSION}"
+run native "coffee-native:${VERSION}"
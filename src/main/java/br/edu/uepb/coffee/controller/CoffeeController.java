@@ -24,13 +24,13 @@ import br.edu.uepb.coffee.dto.GenericResponseErrorDTO;
 import br.edu.uepb.coffee.exceptions.ExistingCoffeeSameNameException;
 import br.edu.uepb.coffee.mapper.CoffeeMapper;
 import br.edu.uepb.coffee.services.CoffeeService;
-import io.swagger.annotations.Api;
-import io.swagger.annotations.ApiOperation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
 import javassist.NotFoundException;
 
 @RestController
 @RequestMapping(value = "/coffees", produces = MediaType.APPLICATION_JSON_VALUE + "; charset=utf-8")
-@Api(value = "Coffee")
+@Tag(name = "Coffee")
 public class CoffeeController {
 
     @Autowired
@@ -40,7 +40,7 @@ public class CoffeeController {
     private CoffeeMapper coffeeMapper;
 
     @GetMapping
-    @ApiOperation(value = "Busca uma lista de todos os cafés")
+    @Operation(summary = "Busca uma lista de todos os cafés")
     public List<CoffeeDTO> getCoffees() {
         List<Coffee> coffees = coffeeService.listAllCoffees();
         return coffees.stream()
@@ -49,7 +49,7 @@ public class CoffeeController {
     }
 
     @GetMapping("/{id}")
-    @ApiOperation(value = "Busca um café pelo seu identificador")
+    @Operation(summary = "Busca um café pelo seu identificador")
     public ResponseEntity<?> getCoffeeById(@PathVariable Long id) {
         try {
             return new ResponseEntity<>(coffeeMapper.convertToCoffeeDTO(coffeeService.findById(id)), HttpStatus.OK);
@@ -59,7 +59,7 @@ public class CoffeeController {
     }
 
     @PostMapping
-    @ApiOperation(value = "Cria um novo café")
+    @Operation(summary = "Cria um novo café")
     public ResponseEntity<?> createCoffee(@RequestBody CoffeeDTO coffeeDTO) {
         try {
             Coffee coffee = coffeeMapper.convertFromCoffeeDTO(coffeeDTO);
@@ -70,7 +70,7 @@ public class CoffeeController {
     }
 
     @PatchMapping
-    @ApiOperation(value = "Atualiza o valor de um café concedendo desconto")
+    @Operation(summary = "Atualiza o valor de um café concedendo desconto")
     public ResponseEntity<?> updateDiscountCoffee(@RequestBody CoffeeWithDiscountDTO coffeeDTO) {
         try {
             Coffee coffee = coffeeMapper.convertFromCoffeeWithDiscountDTO(coffeeDTO);
@@ -82,14 +82,14 @@ public class CoffeeController {
     }
 
     @PutMapping("/{id}")
-    @ApiOperation(value = "Atualiza um café a partir do seu identificador")
+    @Operation(summary = "Atualiza um café a partir do seu identificador")
     public CoffeeDTO updateCoffee(@PathVariable("id") Long id, @RequestBody CoffeeDTO coffeeDTO) {
         Coffee coffee = coffeeMapper.convertFromCoffeeDTO(coffeeDTO);
         return coffeeMapper.convertToCoffeeDTO(coffeeService.updateCoffee(id, coffee));
     }
 
     @DeleteMapping("/{id}")
-    @ApiOperation(value = "Exclui um café a partir do seu identificador")
+    @Operation(summary = "Exclui um café a partir do seu identificador")
     public void deleteCoffee(@PathVariable Long id) {
         coffeeService.deleteCoffee(id);
     }
@@ -10,11 +10,11 @@ import org.springframework.web.bind.annotation.RestController;
 import br.edu.uepb.coffee.dto.UserDTO;
 import br.edu.uepb.coffee.mapper.UserMapper;
 import br.edu.uepb.coffee.services.UserService;
-import io.swagger.annotations.Api;
+import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
 @RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE + "; charset=utf-8")
-@Api(value = "Sign Up")
+@Tag(name = "Sign Up")
 public class SignUpController {
     
     @Autowired
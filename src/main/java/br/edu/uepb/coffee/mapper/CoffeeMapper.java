@@ -1,38 +1,64 @@
 package br.edu.uepb.coffee.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import java.util.function.Supplier;
 
 import br.edu.uepb.coffee.domain.Coffee;
 import br.edu.uepb.coffee.dto.CoffeeDTO;
 import br.edu.uepb.coffee.dto.CoffeeWithDiscountDTO;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
 
 public class CoffeeMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
+    private final Tracer tracer;
+
+    public CoffeeMapper(Tracer tracer) {
+        this.tracer = tracer;
+    }
     
     public CoffeeDTO convertToCoffeeDTO(Coffee coffee) {
-        CoffeeDTO coffeeDTO = modelMapper.map(coffee, CoffeeDTO.class);
+        return traced("CoffeeMapper.convertToCoffeeDTO", () -> {
+            CoffeeDTO coffeeDTO = new CoffeeDTO();
+            coffeeDTO.setName(coffee.getName());
+            coffeeDTO.setPrice(coffee.getPrice());
 
-        return coffeeDTO;
+            return coffeeDTO;
+        });
     }
 
     public Coffee convertFromCoffeeDTO(CoffeeDTO coffeeDTO) {
-        Coffee coffee = modelMapper.map(coffeeDTO, Coffee.class);
-    
-        return coffee;
+        return traced("CoffeeMapper.convertFromCoffeeDTO",
+                () -> new Coffee(coffeeDTO.getName(), coffeeDTO.getPrice()));
     }
 
     public CoffeeWithDiscountDTO convertToCoffeeWithDiscountDTO(Coffee coffee) {
-        CoffeeWithDiscountDTO coffeeDTO = modelMapper.map(coffee, CoffeeWithDiscountDTO.class);
+        return traced("CoffeeMapper.convertToCoffeeWithDiscountDTO", () -> {
+            CoffeeWithDiscountDTO coffeeDTO = new CoffeeWithDiscountDTO();
+            coffeeDTO.setName(coffee.getName());
 
-        return coffeeDTO;
+            return coffeeDTO;
+        });
     }
 
     public Coffee convertFromCoffeeWithDiscountDTO(CoffeeWithDiscountDTO coffeeDTO) {
-        Coffee coffee = modelMapper.map(coffeeDTO, Coffee.class);
-    
-        return coffee;
+        return traced("CoffeeMapper.convertFromCoffeeWithDiscountDTO", () -> {
+            Coffee coffee = new Coffee();
+            coffee.setName(coffeeDTO.getName());
+
+            return coffee;
+        });
+    }
+
+    private <T> T traced(String spanName, Supplier<T> mapping) {
+        // Mapping runs once per element, so skip the span unless the request is being sampled
+        if (!Span.current().isRecording()) {
+            return mapping.get();
+        }
+        Span span = tracer.spanBuilder(spanName).setAttribute("coffee.stage", "mapper").startSpan();
+        try {
+            return mapping.get();
+        } finally {
+            span.end();
+        }
     }
 }
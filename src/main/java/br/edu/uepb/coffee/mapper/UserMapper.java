@@ -1,24 +1,22 @@
 package br.edu.uepb.coffee.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
-
 import br.edu.uepb.coffee.domain.User;
 import br.edu.uepb.coffee.dto.UserDTO;
 
 public class UserMapper {
-    
-    @Autowired
-    private ModelMapper modelMapper;
 
     public UserDTO convertToUserDTO(User user) {
-        UserDTO userDTO = modelMapper.map(user, UserDTO.class);
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUsername(user.getUsername());
+        userDTO.setPassword(user.getPassword());
 
         return userDTO;
     }
 
     public User convertFromUserDTO(UserDTO userDTO) {
-        User user = modelMapper.map(userDTO, User.class);
+        User user = new User();
+        user.setUsername(userDTO.getUsername());
+        user.setPassword(userDTO.getPassword());
     
         return user;
     }
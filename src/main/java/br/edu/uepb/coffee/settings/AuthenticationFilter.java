@@ -2,7 +2,6 @@ package br.edu.uepb.coffee.settings;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -20,9 +19,11 @@ import java.util.Date;
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     
     private AuthenticationManager authenticationManager;
+    private JwtKeyStore jwtKeyStore;
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager) {
+    public AuthenticationFilter(AuthenticationManager authenticationManager, JwtKeyStore jwtKeyStore) {
         this.authenticationManager = authenticationManager;
+        this.jwtKeyStore = jwtKeyStore;
         setFilterProcessesUrl("/login");
     }
 
@@ -43,10 +44,11 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
             Authentication authResult) throws IOException {
                 String token = Jwts.builder()
+                                .setHeaderParam("kid", jwtKeyStore.getActiveKeyId())
                                 .setSubject(((User) authResult.getPrincipal()).getUsername())
                                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                                .setExpiration(new Date(System.currentTimeMillis() + 864_000_000))
-                                .signWith(SignatureAlgorithm.HS256, "UEPBProgWeb20202MySecretKeyToGenJWTsToken".getBytes())
+                                .setExpiration(new Date(System.currentTimeMillis() + jwtKeyStore.getExpirationMs()))
+                                .signWith(jwtKeyStore.getActiveKey())
                                 .compact();
                 response.addHeader("Authorization","Bearer " + token);
     }
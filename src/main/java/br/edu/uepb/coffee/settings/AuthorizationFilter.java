@@ -13,12 +13,19 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
-import io.jsonwebtoken.Jwts;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
 
 public class AuthorizationFilter extends BasicAuthenticationFilter {
     
-    public AuthorizationFilter(AuthenticationManager authenticationManager) {
+    private final JwtKeyStore jwtKeyStore;
+    private final Tracer tracer;
+
+    public AuthorizationFilter(AuthenticationManager authenticationManager, JwtKeyStore jwtKeyStore, Tracer tracer) {
         super(authenticationManager);
+        this.jwtKeyStore = jwtKeyStore;
+        this.tracer = tracer;
     }
 
     protected void doFilterInternal(HttpServletRequest request, 
@@ -40,10 +47,20 @@ public class AuthorizationFilter extends BasicAuthenticationFilter {
         String token = request.getHeader("Authorization");
         
         if (token != null) {
-            String user = Jwts.parser().setSigningKey("UEPBProgWeb20202MySecretKeyToGenJWTsToken".getBytes())
-                    .parseClaimsJws(token.replace("Bearer ",""))
-                    .getBody()
-                    .getSubject();
+            String user;
+            Span span = tracer.spanBuilder("jwt.parse").startSpan();
+            try {
+                user = jwtKeyStore.parser()
+                        .parseClaimsJws(token.replace("Bearer ",""))
+                        .getBody()
+                        .getSubject();
+            } catch (RuntimeException e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.end();
+            }
             if (user != null) {
                 return new UsernamePasswordAuthenticationToken(user, null, new ArrayList<>());
             }
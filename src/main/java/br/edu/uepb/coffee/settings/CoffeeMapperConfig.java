@@ -1,23 +1,18 @@
 package br.edu.uepb.coffee.settings;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import br.edu.uepb.coffee.mapper.CoffeeMapper;
 import br.edu.uepb.coffee.mapper.UserMapper;
+import io.opentelemetry.api.trace.Tracer;
 
-@Configuration
+@Configuration(proxyBeanMethods = false)
 public class CoffeeMapperConfig {
-    
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 
     @Bean
-    public CoffeeMapper coffeeMapper() {
-        return new CoffeeMapper();
+    public CoffeeMapper coffeeMapper(Tracer tracer) {
+        return new CoffeeMapper(tracer);
     }
 
     @Bean
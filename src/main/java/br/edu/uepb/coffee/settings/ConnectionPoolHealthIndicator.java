@@ -0,0 +1,83 @@
+package br.edu.uepb.coffee.settings;
+
+import java.sql.SQLException;
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Exposes the Hikari pool state to the readiness probe.
+ *
+ * <p>Short bursts where requests wait for a connection are normal and must not take the
+ * node out of the load balancer, otherwise its traffic moves to the other nodes and
+ * saturates them in turn. The node is only reported OUT_OF_SERVICE once more than
+ * {@code health.connection-pool.max-awaiting} threads have been waiting on every probe
+ * for at least {@code health.connection-pool.saturation-window-ms}. Any probe below the
+ * limit resets the window.
+ *
+ * <p>This indicator, not the {@code db} one, decides readiness: it only reads the pool's
+ * counters, whereas a validation query would wait for a connection from the saturated pool.
+ */
+@Component
+public class ConnectionPoolHealthIndicator extends AbstractHealthIndicator {
+
+    private static final long NOT_SATURATED = Long.MIN_VALUE;
+
+    private final DataSource dataSource;
+    private final int maxAwaiting;
+    private final long saturationWindowMs;
+    private final Clock clock;
+
+    private volatile long saturatedSince = NOT_SATURATED;
+
+    @Autowired
+    public ConnectionPoolHealthIndicator(DataSource dataSource,
+            @Value("${health.connection-pool.max-awaiting:10}") int maxAwaiting,
+            @Value("${health.connection-pool.saturation-window-ms:30000}") long saturationWindowMs) {
+        this(dataSource, maxAwaiting, saturationWindowMs, Clock.systemUTC());
+    }
+
+    ConnectionPoolHealthIndicator(DataSource dataSource, int maxAwaiting, long saturationWindowMs, Clock clock) {
+        this.dataSource = dataSource;
+        this.maxAwaiting = maxAwaiting;
+        this.saturationWindowMs = saturationWindowMs;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws SQLException {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        if (pool == null) {
+            builder.down().withDetail("reason", "Connection pool not started");
+            return;
+        }
+
+        long now = clock.millis();
+        if (pool.getThreadsAwaitingConnection() > maxAwaiting) {
+            if (saturatedSince == NOT_SATURATED) {
+                saturatedSince = now;
+            }
+        } else {
+            saturatedSince = NOT_SATURATED;
+        }
+
+        if (saturatedSince != NOT_SATURATED && now - saturatedSince >= saturationWindowMs) {
+            builder.outOfService().withDetail("saturatedForMs", now - saturatedSince);
+        } else {
+            builder.up();
+        }
+        builder.withDetail("active", pool.getActiveConnections())
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("total", pool.getTotalConnections())
+                .withDetail("awaiting", pool.getThreadsAwaitingConnection());
+    }
+}
@@ -2,19 +2,47 @@ package br.edu.uepb.coffee.settings;
 
 import com.zaxxer.hikari.*;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.*;
+import org.springframework.core.Ordered;
 import javax.sql.DataSource;
 
-@Configuration
+import io.opentelemetry.api.trace.Tracer;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration(proxyBeanMethods = false)
 public class DatabaseConfig {
 
   @Value("${spring.datasource.url}")
   private String dbUrl;
 
+  @Value("${slow-query.threshold-ms:200}")
+  private long slowQueryThresholdMs;
+
+  @Value("${slow-query.sample-rate:1000}")
+  private int slowQuerySampleRate;
+
+  @Value("${slow-query.max-queries-per-request:10}")
+  private long maxQueriesPerRequest;
+
   @Bean
-  public DataSource dataSource() {
+  public DataSource dataSource(Tracer tracer) {
       HikariConfig config = new HikariConfig();
       config.setJdbcUrl(dbUrl);
-      return new HikariDataSource(config);
+      DataSource pooled = ProxyDataSourceBuilder.create(new HikariDataSource(config))
+              .name("coffee")
+              .countQuery()
+              .listener(new SlowQueryLogListener(slowQueryThresholdMs, slowQuerySampleRate))
+              .listener(new TracingQueryListener(tracer))
+              .build();
+      return new TracingDataSource(pooled, tracer);
+  }
+
+  @Bean
+  public FilterRegistrationBean<QueryCountFilter> queryCountFilter() {
+      FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter(maxQueriesPerRequest));
+      // Ahead of the security filter chain so queries issued during authentication are counted too
+      registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+      return registration;
   }
 }
@@ -0,0 +1,26 @@
+package br.edu.uepb.coffee.settings;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+public class FileExporterConfig {
+
+    @Value("${tracing.file.path:coffee-spans.jsonl}")
+    private String path;
+
+    // Shut down by the tracer provider's span processor, not by the container
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "file")
+    public SpanExporter spanExporter() throws IOException {
+        return new FileSpanExporter(Paths.get(path));
+    }
+}
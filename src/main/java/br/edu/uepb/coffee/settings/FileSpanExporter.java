@@ -0,0 +1,174 @@
+package br.edu.uepb.coffee.settings;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Appends each exported batch to a file as one line of OTLP/JSON (an
+ * ExportTraceServiceRequest), which the OpenTelemetry Collector's file receiver and
+ * exporter read and write. It needs neither gRPC nor Netty, so it also works in the
+ * native image. The JSON is built from maps and lists, so no reflection metadata is needed.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Writer writer;
+
+    public FileSpanExporter(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            String line = objectMapper.writeValueAsString(exportRequest(spans));
+            synchronized (writer) {
+                writer.write(line);
+                writer.write('\n');
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        try {
+            synchronized (writer) {
+                writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        try {
+            synchronized (writer) {
+                writer.close();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private Map<String, Object> exportRequest(Collection<SpanData> spans) {
+        Map<Resource, Map<InstrumentationLibraryInfo, List<Object>>> grouped = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            grouped.computeIfAbsent(span.getResource(), r -> new LinkedHashMap<>())
+                    .computeIfAbsent(span.getInstrumentationLibraryInfo(), l -> new ArrayList<>())
+                    .add(span(span));
+        }
+
+        List<Object> resourceSpans = new ArrayList<>();
+        grouped.forEach((resource, libraries) -> {
+            List<Object> librarySpans = new ArrayList<>();
+            libraries.forEach((library, librarySpanList) -> {
+                Map<String, Object> instrumentationLibrary = new LinkedHashMap<>();
+                instrumentationLibrary.put("name", library.getName());
+                if (library.getVersion() != null) {
+                    instrumentationLibrary.put("version", library.getVersion());
+                }
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("instrumentationLibrary", instrumentationLibrary);
+                entry.put("spans", librarySpanList);
+                librarySpans.add(entry);
+            });
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("resource", Collections.singletonMap("attributes", attributes(resource.getAttributes())));
+            entry.put("instrumentationLibrarySpans", librarySpans);
+            resourceSpans.add(entry);
+        });
+        return Collections.singletonMap("resourceSpans", resourceSpans);
+    }
+
+    private Map<String, Object> span(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", kind(span.getKind()));
+        json.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        json.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        json.put("attributes", attributes(span.getAttributes()));
+
+        List<Object> events = new ArrayList<>();
+        for (EventData event : span.getEvents()) {
+            Map<String, Object> eventJson = new LinkedHashMap<>();
+            eventJson.put("timeUnixNano", Long.toString(event.getEpochNanos()));
+            eventJson.put("name", event.getName());
+            eventJson.put("attributes", attributes(event.getAttributes()));
+            events.add(eventJson);
+        }
+        json.put("events", events);
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("code", "STATUS_CODE_" + span.getStatus().getStatusCode().name());
+        if (span.getStatus().getDescription() != null && !span.getStatus().getDescription().isEmpty()) {
+            status.put("message", span.getStatus().getDescription());
+        }
+        json.put("status", status);
+        return json;
+    }
+
+    private String kind(SpanKind kind) {
+        return "SPAN_KIND_" + kind.name();
+    }
+
+    private List<Object> attributes(Attributes attributes) {
+        List<Object> json = new ArrayList<>();
+        attributes.forEach((key, value) -> {
+            Map<String, Object> attribute = new LinkedHashMap<>();
+            attribute.put("key", key.getKey());
+            attribute.put("value", value(value));
+            json.add(attribute);
+        });
+        return json;
+    }
+
+    private Map<String, Object> value(Object value) {
+        if (value instanceof Boolean) {
+            return Collections.singletonMap("boolValue", value);
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // OTLP/JSON encodes 64-bit integers as strings
+            return Collections.singletonMap("intValue", value.toString());
+        }
+        if (value instanceof Double) {
+            return Collections.singletonMap("doubleValue", value);
+        }
+        return Collections.singletonMap("stringValue", String.valueOf(value));
+    }
+}
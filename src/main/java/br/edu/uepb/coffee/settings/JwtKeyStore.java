@@ -0,0 +1,79 @@
+package br.edu.uepb.coffee.settings;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * Keeps the configured signing keys in memory and resolves the verification key
+ * from the token's {@code kid} header. Tokens without a {@code kid} were issued
+ * before key ids existed and are checked against the active key.
+ */
+@Component
+public class JwtKeyStore extends SigningKeyResolverAdapter {
+
+    private final String activeKeyId;
+    private final Map<String, SecretKey> keys;
+    private final long expirationMs;
+    private final JwtParser parser;
+
+    public JwtKeyStore(JwtProperties properties) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        properties.getKeys().forEach((kid, secret) -> {
+            if (secret == null || secret.trim().isEmpty()) {
+                throw new IllegalStateException("Empty JWT key configured for key id " + kid);
+            }
+            keys.put(kid, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+        });
+
+        if (properties.getActiveKeyId() == null || !keys.containsKey(properties.getActiveKeyId())) {
+            throw new IllegalStateException("No JWT key configured for active key id " + properties.getActiveKeyId()
+                    + "; set jwt.keys." + properties.getActiveKeyId());
+        }
+
+        this.activeKeyId = properties.getActiveKeyId();
+        this.keys = Collections.unmodifiableMap(keys);
+        this.expirationMs = properties.getExpirationMs();
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(this).build();
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public SecretKey getActiveKey() {
+        return keys.get(activeKeyId);
+    }
+
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
+    public JwtParser parser() {
+        return parser;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId() != null ? header.getKeyId() : activeKeyId;
+        SecretKey key = keys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id " + kid);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,28 @@
+package br.edu.uepb.coffee.settings;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JWT signing keys, indexed by key id ({@code kid}). New tokens are signed with
+ * {@code activeKeyId}; every key listed is still accepted for verification, so a
+ * new key can be rolled out to all nodes before it becomes the active one.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private String activeKeyId;
+
+    private Map<String, String> keys = new HashMap<>();
+
+    private long expirationMs = 864_000_000;
+}
@@ -0,0 +1,28 @@
+package br.edu.uepb.coffee.settings;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Kept apart from {@link TracingConfig} so the native build can leave the gRPC
+ * exporter out of the image (see build.gradle).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+public class OtlpExporterConfig {
+
+    @Value("${tracing.otlp.endpoint:http://localhost:4317}")
+    private String otlpEndpoint;
+
+    // Shut down by the tracer provider's span processor, not by the container
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "otlp", matchIfMissing = true)
+    public SpanExporter spanExporter() {
+        return OtlpGrpcSpanExporter.builder().setEndpoint(otlpEndpoint).build();
+    }
+}
@@ -0,0 +1,44 @@
+package br.edu.uepb.coffee.settings;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * Flags requests that issue more than {@code maxQueries} statements, the usual sign of an N+1.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final long maxQueries;
+
+    public QueryCountFilter(long maxQueries) {
+        this.maxQueries = maxQueries;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long total = QueryCountHolder.getGrandTotal().getTotal();
+            if (total > maxQueries) {
+                LOGGER.warn("Possible N+1: {} {} issued {} queries (limit {})",
+                        request.getMethod(), request.getRequestURI(), total, maxQueries);
+            }
+            QueryCountHolder.clear();
+        }
+    }
+}
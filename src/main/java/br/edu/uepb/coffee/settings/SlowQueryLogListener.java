@@ -0,0 +1,69 @@
+package br.edu.uepb.coffee.settings;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Logs statements slower than the threshold, plus one in every {@code sampleRate}
+ * statements, with their bind parameters and duration. The logger is routed to an
+ * async, bounded appender in logback-spring.xml so the request thread never waits on I/O.
+ * Parameters of statements on the {@code users} table are masked, as they carry password hashes.
+ */
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLogListener.class);
+
+    private static final Pattern SENSITIVE_TABLE = Pattern.compile("\\busers\\b", Pattern.CASE_INSENSITIVE);
+
+    private final long thresholdMs;
+    private final int sampleRate;
+
+    public SlowQueryLogListener(long thresholdMs, int sampleRate) {
+        this.thresholdMs = thresholdMs;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= thresholdMs;
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        if (!slow && !sampled) {
+            return;
+        }
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            LOGGER.info("{} query took {} ms: {} params={}", slow ? "Slow" : "Sampled",
+                    execInfo.getElapsedTime(), queryInfo.getQuery(),
+                    SENSITIVE_TABLE.matcher(queryInfo.getQuery()).find() ? "[masked]" : formatParameters(queryInfo));
+        }
+    }
+
+    private String formatParameters(QueryInfo queryInfo) {
+        StringBuilder builder = new StringBuilder();
+        for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+            builder.append('[');
+            for (int i = 0; i < parameters.size(); i++) {
+                Object[] args = parameters.get(i).getArgs();
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(args[0]).append('=').append(args.length > 1 ? args[1] : null);
+            }
+            builder.append(']');
+        }
+        return builder.toString();
+    }
+}
@@ -2,34 +2,21 @@ package br.edu.uepb.coffee.settings;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurationSupport;
 
-import springfox.documentation.builders.ApiInfoBuilder;
-import springfox.documentation.builders.RequestHandlerSelectors;
-import springfox.documentation.service.ApiInfo;
-import springfox.documentation.spi.DocumentationType;
-import springfox.documentation.spring.web.plugins.Docket;
-import springfox.documentation.swagger2.annotations.EnableSwagger2;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
 
-@Configuration
-@EnableSwagger2
-public class SwaggerConfig extends WebMvcConfigurationSupport {
+@Configuration(proxyBeanMethods = false)
+public class SwaggerConfig {
     @Bean
-    public Docket productApi() {
-        return new Docket(DocumentationType.SWAGGER_2).select().apis(RequestHandlerSelectors.basePackage("br.edu.uepb.coffee"))
-                .build().apiInfo(metaData());
+    public OpenAPI productApi() {
+        return new OpenAPI().info(metaData());
     }
 
-    private ApiInfo metaData() {
-        return new ApiInfoBuilder().title("Coffee Restful API").description("\"Supported by Spring Boot\"")
-                .version("1.0.0").license("Apache License Version 2.0")
-                .licenseUrl("https://www.apache.org/licenses/LICENSE-2.0\"").build();
-    }
-
-    @Override
-    protected void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("swagger-ui.html").addResourceLocations("classpath:/META-INF/resources/");
-        registry.addResourceHandler("/webjars/**").addResourceLocations("classpath:/META-INF/resources/webjars/");
+    private Info metaData() {
+        return new Info().title("Coffee Restful API").description("\"Supported by Spring Boot\"")
+                .version("1.0.0").license(new License().name("Apache License Version 2.0")
+                .url("https://www.apache.org/licenses/LICENSE-2.0"));
     }
 }
@@ -0,0 +1,77 @@
+package br.edu.uepb.coffee.settings;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Only registered when tracing is enabled, so repositories are not proxied otherwise.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+public class TracingAspect {
+
+    private final Tracer tracer;
+    // Keyed by repository proxy class, then method: inherited methods such as findById are
+    // declared on CrudRepository, so the method alone does not tell the repositories apart
+    private final Map<Class<?>, Map<Method, String>> spanNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    // execution(..) matches the repository proxies when they are created; target(..) left a
+    // runtime check on every repository call
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "db");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String stage) throws Throwable {
+        if (!Span.current().isRecording()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> repositoryClass = joinPoint.getTarget().getClass();
+        Span span = tracer.spanBuilder(spanNames
+                        .computeIfAbsent(repositoryClass, c -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(method, m -> repositoryName(repositoryClass) + "." + m.getName()))
+                .setAttribute("coffee.stage", stage)
+                .startSpan();
+
+        try (Scope scope = span.makeCurrent()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private String repositoryName(Class<?> repositoryClass) {
+        for (Class<?> repositoryInterface : ClassUtils.getAllInterfacesForClassAsSet(repositoryClass)) {
+            if (Repository.class.isAssignableFrom(repositoryInterface)
+                    && !repositoryInterface.getName().startsWith("org.springframework.")) {
+                return repositoryInterface.getSimpleName();
+            }
+        }
+        return repositoryClass.getSimpleName();
+    }
+}
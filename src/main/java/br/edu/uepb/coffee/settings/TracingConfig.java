@@ -0,0 +1,80 @@
+package br.edu.uepb.coffee.settings;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * Request tracing across the hot path (JWT parsing, connection acquisition, queries
+ * and JSON writing). Only a fraction of requests is sampled and spans are
+ * exported in batches off the request thread, either via OTLP to a collector
+ * ({@link OtlpExporterConfig}) or as OTLP/JSON to a local file ({@link FileExporterConfig}),
+ * selected by {@code tracing.exporter}. The native build has no OTLP exporter and uses the
+ * file one; without any {@link SpanExporter} the no-op API is used.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TracingConfig {
+
+    @Value("${tracing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${tracing.sample-ratio:0.01}")
+    private double sampleRatio;
+
+    private SdkTracerProvider tracerProvider;
+
+    @Bean
+    public OpenTelemetry openTelemetry(ObjectProvider<SpanExporter> spanExporter) {
+        SpanExporter exporter = spanExporter.getIfAvailable();
+        if (!enabled || exporter == null) {
+            return OpenTelemetry.noop();
+        }
+
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(sampleRatio)))
+                .setResource(Resource.getDefault().merge(
+                        Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "coffee"))))
+                .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())
+                .build();
+        return OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+    }
+
+    @Bean
+    public Tracer tracer(OpenTelemetry openTelemetry) {
+        return openTelemetry.getTracer("br.edu.uepb.coffee");
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        // Must run before the security filter chain so the JWT span is a child of the request span
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (tracerProvider != null) {
+            // Flushes the spans still queued in the batch processor, e.g. those of the requests drained on shutdown
+            tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package br.edu.uepb.coffee.settings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+
+/**
+ * Records the time spent waiting for a pooled connection within a sampled request.
+ */
+public class TracingDataSource extends DelegatingDataSource implements Closeable {
+
+    private final Tracer tracer;
+
+    public TracingDataSource(DataSource targetDataSource, Tracer tracer) {
+        super(targetDataSource);
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!Span.current().isRecording()) {
+            return super.getConnection();
+        }
+        Span span = tracer.spanBuilder("db.connection.acquire").startSpan();
+        try {
+            return super.getConnection();
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable) {
+            ((Closeable) getTargetDataSource()).close();
+        }
+    }
+}
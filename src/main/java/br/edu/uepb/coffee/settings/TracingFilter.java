@@ -0,0 +1,53 @@
+package br.edu.uepb.coffee.settings;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Span span = tracer.spanBuilder("HTTP " + request.getMethod())
+                .setSpanKind(SpanKind.SERVER)
+                .startSpan();
+
+        try (Scope scope = span.makeCurrent()) {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            if (span.isRecording()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                    span.updateName(request.getMethod() + " " + pattern);
+                }
+                span.setAttribute("http.method", request.getMethod());
+                span.setAttribute("http.target", request.getRequestURI());
+                span.setAttribute("http.status_code", response.getStatus());
+            }
+            span.end();
+        }
+    }
+}
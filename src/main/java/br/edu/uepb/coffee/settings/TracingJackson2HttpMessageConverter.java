@@ -0,0 +1,39 @@
+package br.edu.uepb.coffee.settings;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Tracer tracer;
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper, Tracer tracer) {
+        super(objectMapper);
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!Span.current().isRecording()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        Span span = tracer.spanBuilder("json.write").startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            span.end();
+        }
+    }
+}
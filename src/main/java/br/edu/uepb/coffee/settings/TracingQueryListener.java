@@ -0,0 +1,53 @@
+package br.edu.uepb.coffee.settings;
+
+import java.util.List;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Opens a span around every JDBC statement. Unlike {@link TracingAspect} it needs no AOP
+ * proxy, so the db stage is also traced in the native image. Statements run synchronously
+ * on the calling thread, so the open span is kept in a thread local between the callbacks.
+ * Statements outside a sampled request are not traced.
+ */
+public class TracingQueryListener implements QueryExecutionListener {
+
+    private final Tracer tracer;
+    private final ThreadLocal<Span> currentSpan = new ThreadLocal<>();
+
+    public TracingQueryListener(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!Span.current().isRecording()) {
+            return;
+        }
+        Span span = tracer.spanBuilder("db.query").setAttribute("coffee.stage", "db").startSpan();
+        if (span.isRecording() && !queryInfoList.isEmpty()) {
+            span.setAttribute("db.statement", queryInfoList.get(0).getQuery());
+        }
+        currentSpan.set(span);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Span span = currentSpan.get();
+        if (span == null) {
+            return;
+        }
+        currentSpan.remove();
+
+        if (execInfo.getThrowable() != null) {
+            span.recordException(execInfo.getThrowable());
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+}
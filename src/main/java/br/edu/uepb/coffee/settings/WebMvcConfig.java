@@ -0,0 +1,27 @@
+package br.edu.uepb.coffee.settings;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.opentelemetry.api.trace.Tracer;
+
+@Configuration(proxyBeanMethods = false)
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final Tracer tracer;
+
+    public WebMvcConfig(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter
+                ? new TracingJackson2HttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), tracer)
+                : converter);
+    }
+}
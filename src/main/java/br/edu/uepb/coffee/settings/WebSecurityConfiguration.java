@@ -12,27 +12,33 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import io.opentelemetry.api.trace.Tracer;
+
 @EnableWebSecurity
 public class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
     
     private BCryptPasswordEncoder bCryptPasswordEncoder;
     private UserDetailsService userDetailsService;
+    private JwtKeyStore jwtKeyStore;
+    private Tracer tracer;
 
     private static final String[] AUTH_WHITELIST = {
-        "/v2/api-docs",
+        "/v3/api-docs",
+        "/v3/api-docs/**",
         "/signup",
         "/h2-console/**",
-        "/swagger-resources",
-        "/swagger-resources/**",
-        "/configuration/ui",
-        "/configuration/security",
         "/swagger-ui.html",
-        "/webjars/**"
+        "/swagger-ui/**",
+        "/actuator/health",
+        "/actuator/health/**"
     };
 
-    public WebSecurityConfiguration(UserDetailsService userDetailsService, BCryptPasswordEncoder bCryptPasswordEncoder) {
+    public WebSecurityConfiguration(UserDetailsService userDetailsService, BCryptPasswordEncoder bCryptPasswordEncoder,
+            JwtKeyStore jwtKeyStore, Tracer tracer) {
         this.userDetailsService = userDetailsService;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;        
+        this.jwtKeyStore = jwtKeyStore;
+        this.tracer = tracer;
     }
 
     protected void configure(HttpSecurity httpSecurity) throws Exception {
@@ -41,8 +47,8 @@ public class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
             .authorizeRequests()
             .antMatchers(AUTH_WHITELIST).permitAll()
             .anyRequest().authenticated()
-            .and().addFilter(new AuthenticationFilter(authenticationManager()))
-            .addFilter(new AuthorizationFilter(authenticationManager()))
+            .and().addFilter(new AuthenticationFilter(authenticationManager(), jwtKeyStore))
+            .addFilter(new AuthorizationFilter(authenticationManager(), jwtKeyStore, tracer))
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
     }
 
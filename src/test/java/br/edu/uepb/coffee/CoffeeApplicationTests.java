@@ -5,7 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "jwt.keys.k1=test-only-jwt-secret-with-at-least-256-bits")
 class CoffeeApplicationTests {
 
 	@Test
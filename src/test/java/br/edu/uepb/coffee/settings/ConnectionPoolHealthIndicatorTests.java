@@ -0,0 +1,62 @@
+package br.edu.uepb.coffee.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.time.Clock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+class ConnectionPoolHealthIndicatorTests {
+
+    private static final int MAX_AWAITING = 10;
+    private static final long WINDOW_MS = 30_000;
+
+    private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+    private final Clock clock = mock(Clock.class);
+
+    private ConnectionPoolHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        indicator = new ConnectionPoolHealthIndicator(dataSource, MAX_AWAITING, WINDOW_MS, clock);
+    }
+
+    private Status probe(long nowMs, int awaiting) {
+        when(clock.millis()).thenReturn(nowMs);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(awaiting);
+        return indicator.health().getStatus();
+    }
+
+    @Test
+    void staysUpDuringBurstShorterThanWindow() {
+        assertEquals(Status.UP, probe(0, 32));
+        assertEquals(Status.UP, probe(WINDOW_MS - 1, 32));
+    }
+
+    @Test
+    void goesOutOfServiceOnSustainedSaturation() {
+        assertEquals(Status.UP, probe(0, 32));
+        assertEquals(Status.UP, probe(WINDOW_MS / 2, 32));
+        assertEquals(Status.OUT_OF_SERVICE, probe(WINDOW_MS, 32));
+    }
+
+    @Test
+    void probeBelowLimitResetsWindow() {
+        assertEquals(Status.UP, probe(0, 32));
+        assertEquals(Status.UP, probe(WINDOW_MS / 2, MAX_AWAITING));
+        assertEquals(Status.UP, probe(WINDOW_MS, 32));
+        assertEquals(Status.UP, probe(WINDOW_MS + WINDOW_MS / 2, 32));
+        assertEquals(Status.OUT_OF_SERVICE, probe(2 * WINDOW_MS, 32));
+    }
+}
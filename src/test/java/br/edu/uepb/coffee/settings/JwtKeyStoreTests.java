@@ -0,0 +1,69 @@
+package br.edu.uepb.coffee.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtKeyStoreTests {
+
+    private static final String OLD_SECRET = "old-test-secret-with-at-least-256-bits!!";
+    private static final String NEW_SECRET = "new-test-secret-with-at-least-256-bits!!";
+
+    private JwtKeyStore keyStore(String activeKeyId) {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.getKeys().put("old", OLD_SECRET);
+        properties.getKeys().put("new", NEW_SECRET);
+        return new JwtKeyStore(properties);
+    }
+
+    private String token(String kid, String secret) {
+        JwtBuilder builder = Jwts.builder().setSubject("coffee-lover");
+        if (kid != null) {
+            builder.setHeaderParam("kid", kid);
+        }
+        return builder.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))).compact();
+    }
+
+    @Test
+    void verifiesTokenSignedWithNonActiveKey() {
+        String subject = keyStore("new").parser().parseClaimsJws(token("old", OLD_SECRET)).getBody().getSubject();
+
+        assertEquals("coffee-lover", subject);
+    }
+
+    @Test
+    void rejectsUnknownKeyId() {
+        JwtKeyStore keyStore = keyStore("new");
+
+        assertThrows(SignatureException.class, () -> keyStore.parser().parseClaimsJws(token("retired", OLD_SECRET)));
+    }
+
+    @Test
+    void verifiesLegacyTokenWithoutKeyIdAgainstActiveKey() {
+        String subject = keyStore("old").parser().parseClaimsJws(token(null, OLD_SECRET)).getBody().getSubject();
+
+        assertEquals("coffee-lover", subject);
+    }
+
+    @Test
+    void rejectsLegacyTokenSignedWithNonActiveKey() {
+        JwtKeyStore keyStore = keyStore("new");
+
+        assertThrows(JwtException.class, () -> keyStore.parser().parseClaimsJws(token(null, OLD_SECRET)));
+    }
+
+    @Test
+    void failsAtConstructionWhenActiveKeyIsMissing() {
+        assertThrows(IllegalStateException.class, () -> keyStore("missing"));
+    }
+}
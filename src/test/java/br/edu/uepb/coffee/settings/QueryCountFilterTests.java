@@ -0,0 +1,74 @@
+package br.edu.uepb.coffee.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.listener.DataSourceQueryCountListener;
+
+class QueryCountFilterTests {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(QueryCountFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final DataSourceQueryCountListener countListener = new DataSourceQueryCountListener();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+    }
+
+    // Counts a query the same way the proxied DataSource does
+    private void issueQueries(int count) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setDataSourceName("coffee");
+        execInfo.setStatementType(StatementType.PREPARED);
+        execInfo.setSuccess(true);
+        for (int i = 0; i < count; i++) {
+            countListener.afterQuery(execInfo,
+                    Collections.singletonList(new QueryInfo("select * from coffees where id=?")));
+        }
+    }
+
+    private void runRequest(int queries) throws Exception {
+        new QueryCountFilter(10).doFilter(new MockHttpServletRequest("GET", "/coffees"),
+                new MockHttpServletResponse(), (request, response) -> issueQueries(queries));
+    }
+
+    @Test
+    void flagsRequestIssuingMoreQueriesThanLimit() throws Exception {
+        runRequest(11);
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("Possible N+1: GET /coffees issued 11 queries (limit 10)", event.getFormattedMessage());
+    }
+
+    @Test
+    void ignoresRequestWithinLimit() throws Exception {
+        runRequest(10);
+
+        assertTrue(appender.list.isEmpty());
+    }
+}
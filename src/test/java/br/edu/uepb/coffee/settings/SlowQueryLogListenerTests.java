@@ -0,0 +1,99 @@
+package br.edu.uepb.coffee.settings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+class SlowQueryLogListenerTests {
+
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3g";
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLogListener.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+    }
+
+    private ExecutionInfo execution(long elapsedMs) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMs);
+        return execInfo;
+    }
+
+    private List<QueryInfo> query(String sql, Object... values) throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        ParameterSetOperation[] parameters = new ParameterSetOperation[values.length];
+        for (int i = 0; i < values.length; i++) {
+            parameters[i] = new ParameterSetOperation(
+                    PreparedStatement.class.getMethod("setObject", int.class, Object.class),
+                    new Object[] { i + 1, values[i] });
+        }
+        queryInfo.getParametersList().add(Arrays.asList(parameters));
+        return Collections.singletonList(queryInfo);
+    }
+
+    @Test
+    void logsQueryAboveThresholdWithParameters() throws Exception {
+        new SlowQueryLogListener(200, 0)
+                .afterQuery(execution(250), query("select * from coffees where name=?", "Espresso"));
+
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.startsWith("Slow query took 250 ms"));
+        assertTrue(message.contains("params=[1=Espresso]"));
+    }
+
+    @Test
+    void skipsFastQueryWhenSamplingIsDisabled() throws Exception {
+        new SlowQueryLogListener(200, 0)
+                .afterQuery(execution(199), query("select * from coffees where name=?", "Espresso"));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void logsSampledFastQuery() throws Exception {
+        new SlowQueryLogListener(200, 1)
+                .afterQuery(execution(1), query("select * from coffees where name=?", "Espresso"));
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("Sampled query took 1 ms"));
+    }
+
+    @Test
+    void masksParametersOfUsersStatements() throws Exception {
+        new SlowQueryLogListener(200, 0).afterQuery(execution(500),
+                query("insert into users (password, username, id) values (?, ?, ?)", PASSWORD_HASH, "barista", 1L));
+
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.endsWith("params=[masked]"));
+        assertFalse(message.contains(PASSWORD_HASH));
+        assertFalse(message.contains("barista"));
+    }
+}